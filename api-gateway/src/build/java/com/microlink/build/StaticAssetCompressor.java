@@ -0,0 +1,91 @@
+package com.microlink.build;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build-time tool that writes .gz and .br siblings next to every CSS and JS
+ * file under the given static resources directory, so the resource chain can
+ * serve precompressed variants instead of compressing per request.
+ * Run by the build with the JDK source launcher (see pom.xml); it is not part of the application jar.
+ */
+public final class StaticAssetCompressor {
+
+    private static final String[] COMPRESSIBLE_EXTENSIONS = {".css", ".js"};
+
+    private StaticAssetCompressor() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: StaticAssetCompressor <static-resources-dir>");
+        }
+
+        Path root = Paths.get(args[0]);
+        if (!Files.isDirectory(root)) {
+            System.out.println("No static resources found at " + root + ", skipping compression");
+            return;
+        }
+
+        Brotli4jLoader.ensureAvailability();
+        Encoder.Parameters brotliParams = new Encoder.Parameters().setQuality(11);
+
+        List<Path> assets;
+        try (Stream<Path> files = Files.walk(root)) {
+            assets = files.filter(Files::isRegularFile)
+                    .filter(StaticAssetCompressor::isCompressible)
+                    .collect(Collectors.toList());
+        }
+
+        for (Path asset : assets) {
+            byte[] content = Files.readAllBytes(asset);
+            writeGzip(content, siblingOf(asset, ".gz"));
+            Files.write(siblingOf(asset, ".br"), Encoder.compress(content, brotliParams));
+            System.out.println("Precompressed " + root.relativize(asset));
+        }
+    }
+
+    private static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString();
+        for (String extension : COMPRESSIBLE_EXTENSIONS) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path siblingOf(Path file, String extension) {
+        return file.resolveSibling(file.getFileName().toString() + extension);
+    }
+
+    private static void writeGzip(byte[] content, Path target) throws IOException {
+        try (OutputStream out = new MaxCompressionGzipOutputStream(Files.newOutputStream(target))) {
+            out.write(content);
+        }
+    }
+
+    /**
+     * GZIPOutputStream has no compression level setting, only its protected
+     * Deflater. Assets are compressed once per build, so the slowest, smallest
+     * level is worth it.
+     */
+    private static final class MaxCompressionGzipOutputStream extends GZIPOutputStream {
+
+        MaxCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
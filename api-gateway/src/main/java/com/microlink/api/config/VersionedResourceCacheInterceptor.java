@@ -0,0 +1,40 @@
+package com.microlink.api.config;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sets Cache-Control on static resources: long-lived for content-hashed
+ * URLs, revalidate-every-time for plain paths such as /css/dashboard.css,
+ * which keep their name across deploys. Hashes that are not current never
+ * reach the client, the resource chain answers them with 404.
+ */
+class VersionedResourceCacheInterceptor implements HandlerInterceptor {
+
+    private static final CacheControl VERSIONED_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic();
+
+    private static final CacheControl UNVERSIONED_CACHE = CacheControl.noCache();
+
+    private final ContentVersionStrategy versionStrategy = new ContentVersionStrategy();
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof ResourceHttpRequestHandler) {
+            String path = urlPathHelper.getLookupPathForRequest(request);
+            CacheControl cacheControl = versionStrategy.extractVersion(path) != null
+                    ? VERSIONED_CACHE : UNVERSIONED_CACHE;
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+        return true;
+    }
+}
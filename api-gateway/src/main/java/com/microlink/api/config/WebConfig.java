@@ -0,0 +1,50 @@
+package com.microlink.api.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * HTML pages served by FrontendController
+     */
+    private static final String[] PAGE_PATHS = {"/", "/dashboard", "/metrics-page", "/health-page"};
+
+    /**
+     * Static assets served through the versioned resource chain
+     */
+    private static final String[] ASSET_PATHS = {"/css/**", "/js/**"};
+
+    /**
+     * ETag / If-None-Match support for the HTML pages, so unchanged pages
+     * are answered with 304 Not Modified instead of a full body
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> pageEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(PAGE_PATHS);
+        registration.setName("pageEtagFilter");
+        return registration;
+    }
+
+    /**
+     * Pages reference fingerprinted assets, so browsers may keep them but
+     * must revalidate on every visit to pick up new asset versions.
+     * Static assets are only cached long-term under their hashed URL.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        WebContentInterceptor pageCacheInterceptor = new WebContentInterceptor();
+        pageCacheInterceptor.addCacheMapping(CacheControl.noCache(), PAGE_PATHS);
+        registry.addInterceptor(pageCacheInterceptor).addPathPatterns(PAGE_PATHS);
+        registry.addInterceptor(new VersionedResourceCacheInterceptor()).addPathPatterns(ASSET_PATHS);
+    }
+}
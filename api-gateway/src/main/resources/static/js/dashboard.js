@@ -0,0 +1,52 @@
+function loadMetrics() {
+    fetch('/api/v1/metrics')
+        .then(response => response.json())
+        .then(data => {
+            updateMetrics(data);
+            updateTimestamp();
+        })
+        .catch(error => {
+            console.error('Error loading metrics:', error);
+        });
+}
+
+function updateMetrics(data) {
+    const grid = document.getElementById('metricsGrid');
+    grid.innerHTML = `
+        <div class="metric-card">
+            <div class="metric-value">${data.latency_ms}ms</div>
+            <div class="metric-label">Latency</div>
+        </div>
+        <div class="metric-card">
+            <div class="metric-value">${data.jitter_ms}ms</div>
+            <div class="metric-label">Jitter</div>
+        </div>
+        <div class="metric-card">
+            <div class="metric-value">${data.signal_strength_db}dB</div>
+            <div class="metric-label">Signal Strength</div>
+        </div>
+        <div class="metric-card">
+            <div class="metric-value">${data.packet_loss_rate}%</div>
+            <div class="metric-label">Packet Loss</div>
+        </div>
+        <div class="metric-card">
+            <div class="metric-value">${data.bandwidth_mbps}Mbps</div>
+            <div class="metric-label">Bandwidth</div>
+        </div>
+        <div class="metric-card">
+            <div class="metric-value">${data.snr_db}dB</div>
+            <div class="metric-label">SNR</div>
+        </div>
+    `;
+}
+
+function updateTimestamp() {
+    const now = new Date();
+    document.getElementById('timestamp').textContent = now.toLocaleString();
+}
+
+// Load metrics on page load
+loadMetrics();
+
+// Auto-refresh every 5 seconds
+setInterval(loadMetrics, 5000);
@@ -0,0 +1,43 @@
+function loadHealth() {
+    fetch('/api/v1/metrics/health')
+        .then(response => response.json())
+        .then(data => {
+            updateHealth(data);
+            updateTimestamp();
+        })
+        .catch(error => {
+            console.error('Error loading health:', error);
+        });
+}
+
+function updateHealth(data) {
+    const container = document.getElementById('healthContainer');
+    const statusClass = data.simulator_available ? 'status-good' : 'status-error';
+    const statusText = data.simulator_available ? 'Available' : 'Unavailable';
+    
+    container.innerHTML = `
+        <div class="health-row">
+            <span class="health-name">System Status</span>
+            <span class="health-value ${statusClass}">${data.status}</span>
+        </div>
+        <div class="health-row">
+            <span class="health-name">Simulator Available</span>
+            <span class="health-value ${statusClass}">${statusText}</span>
+        </div>
+        <div class="health-row">
+            <span class="health-name">Timestamp</span>
+            <span class="health-value">${new Date(data.timestamp).toLocaleString()}</span>
+        </div>
+    `;
+}
+
+function updateTimestamp() {
+    const now = new Date();
+    document.getElementById('timestamp').textContent = now.toLocaleString();
+}
+
+// Load health on page load
+loadHealth();
+
+// Auto-refresh every 10 seconds
+setInterval(loadHealth, 10000);
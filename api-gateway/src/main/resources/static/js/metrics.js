@@ -0,0 +1,56 @@
+function loadMetrics() {
+    fetch('/api/v1/metrics')
+        .then(response => response.json())
+        .then(data => {
+            updateMetrics(data);
+            updateTimestamp();
+        })
+        .catch(error => {
+            console.error('Error loading metrics:', error);
+        });
+}
+
+function updateMetrics(data) {
+    const container = document.getElementById('metricsContainer');
+    container.innerHTML = `
+        <div class="metric-row">
+            <span class="metric-name">Latency</span>
+            <span class="metric-value">${data.latency_ms} ms</span>
+        </div>
+        <div class="metric-row">
+            <span class="metric-name">Jitter</span>
+            <span class="metric-value">${data.jitter_ms} ms</span>
+        </div>
+        <div class="metric-row">
+            <span class="metric-name">Signal Strength</span>
+            <span class="metric-value">${data.signal_strength_db} dB</span>
+        </div>
+        <div class="metric-row">
+            <span class="metric-name">Packet Loss Rate</span>
+            <span class="metric-value">${data.packet_loss_rate} %</span>
+        </div>
+        <div class="metric-row">
+            <span class="metric-name">Bandwidth</span>
+            <span class="metric-value">${data.bandwidth_mbps} Mbps</span>
+        </div>
+        <div class="metric-row">
+            <span class="metric-name">Signal-to-Noise Ratio</span>
+            <span class="metric-value">${data.snr_db} dB</span>
+        </div>
+        <div class="metric-row">
+            <span class="metric-name">Timestamp</span>
+            <span class="metric-value">${new Date(data.timestamp * 1000).toLocaleString()}</span>
+        </div>
+    `;
+}
+
+function updateTimestamp() {
+    const now = new Date();
+    document.getElementById('timestamp').textContent = now.toLocaleString();
+}
+
+// Load metrics on page load
+loadMetrics();
+
+// Auto-refresh every 10 seconds
+setInterval(loadMetrics, 10000);
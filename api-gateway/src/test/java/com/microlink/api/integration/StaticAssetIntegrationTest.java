@@ -0,0 +1,106 @@
+package com.microlink.api.integration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "link.simulator.command=../link-sim/link_sim.exe",
+    "server.port=0"
+})
+class StaticAssetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
+    @Test
+    void testDashboardPage_ReferencesFingerprintedAssets() throws Exception {
+        String cssUrl = resourceUrlProvider.getForLookupPath("/css/dashboard.css");
+        String jsUrl = resourceUrlProvider.getForLookupPath("/js/dashboard.js");
+
+        assertNotNull(cssUrl);
+        assertNotNull(jsUrl);
+        assertNotEquals("/css/dashboard.css", cssUrl);
+        assertNotEquals("/js/dashboard.js", jsUrl);
+
+        mockMvc.perform(get("/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(cssUrl)))
+                .andExpect(content().string(containsString(jsUrl)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/", "/dashboard", "/metrics-page", "/health-page"})
+    void testPage_ConditionalGet(String page) throws Exception {
+        MvcResult first = mockMvc.perform(get(page))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(page).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testFingerprintedAsset_ServedPrecompressedWithLongCache() throws Exception {
+        String cssUrl = resourceUrlProvider.getForLookupPath("/css/dashboard.css");
+        byte[] original = StreamUtils.copyToByteArray(new ClassPathResource("static/css/dashboard.css").getInputStream());
+
+        byte[] brotli = mockMvc.perform(get(cssUrl).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // No brotli decoder on the test classpath; at least rule out an empty or uncompressed copy
+        assertTrue(brotli.length > 0 && brotli.length < original.length);
+
+        byte[] gzip = mockMvc.perform(get(cssUrl).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(original, StreamUtils.copyToByteArray(in));
+        }
+    }
+
+    @Test
+    void testOutdatedAssetHash_NotFound() throws Exception {
+        mockMvc.perform(get("/css/dashboard-deadbeef.css"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUnversionedAsset_MustRevalidate() throws Exception {
+        mockMvc.perform(get("/css/dashboard.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+}